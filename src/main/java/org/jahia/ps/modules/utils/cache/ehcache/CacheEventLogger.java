@@ -5,12 +5,16 @@ import net.sf.ehcache.Ehcache;
 import net.sf.ehcache.event.CacheEventListener;
 import net.sf.ehcache.event.NotificationScope;
 import org.apache.commons.lang.StringUtils;
+import org.jahia.ps.modules.utils.cache.stats.CacheEventCounters;
+import org.jahia.ps.modules.utils.cache.stats.CacheUtilsStats;
+import org.jahia.ps.modules.utils.cache.stats.EventListenerState;
 import org.jahia.services.SpringContextSingleton;
 import org.jahia.services.cache.CacheProvider;
 import org.jahia.utils.Patterns;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.metatype.annotations.AttributeDefinition;
 import org.osgi.service.metatype.annotations.Designate;
 import org.osgi.service.metatype.annotations.ObjectClassDefinition;
@@ -19,9 +23,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -60,8 +66,12 @@ public class CacheEventLogger {
 
     private final Map<String, Map<String, Collection<CacheEvent>>> monitoredCaches = new HashMap<>();
     private final Map<String, Map<String, CacheEventListener>> listeners = new HashMap<>();
+    private final List<EventListenerState> listenersState = new ArrayList<>();
     private boolean useOneLoggerPerCache = false;
 
+    @Reference
+    private CacheUtilsStats stats;
+
     public enum CacheEvent {
         ELEMENT_PUT("Element put in"),
         ELEMENT_UPDATED("Element updated in"),
@@ -96,6 +106,7 @@ public class CacheEventLogger {
     private void reset() {
         monitoredCaches.clear();
         listeners.clear();
+        listenersState.clear();
         useOneLoggerPerCache = false;
     }
 
@@ -115,16 +126,21 @@ public class CacheEventLogger {
                 registerListener(groupName, cacheName, cacheEvents, config.logLevel());
             });
         });
+        stats.setEventListeners(new ArrayList<>(listenersState));
         logger.info("Added all the listeners");
     }
 
     @Deactivate
     public void deactivate() {
         listeners.forEach((groupName, groupCaches) -> {
-            groupCaches.forEach((cacheName, listener) -> unregisterListener(groupName, cacheName, listener));
+            groupCaches.forEach((cacheName, listener) -> {
+                unregisterListener(groupName, cacheName, listener);
+                stats.removeCacheEventCounters(groupName, cacheName);
+            });
         });
         logger.info("Removed all the listeners");
         reset();
+        stats.setEventListeners(new ArrayList<>(listenersState));
     }
 
     private void monitorCache(String conf) {
@@ -140,21 +156,32 @@ public class CacheEventLogger {
     }
 
     private void registerListener(String cacheGroup, String cacheName, Collection<CacheEvent> cacheEvents, String level) {
-        final CacheEventLoggerListener[] listener = new CacheEventLoggerListener[1];
-        final boolean sucess = Optional.ofNullable(getCache(cacheGroup, cacheName))
-                .map(Ehcache::getCacheEventNotificationService)
-                .map(notificationService -> {
-                    listener[0] = new CacheEventLoggerListener(cacheEvents, level, getListenerLoggerQualifier(cacheName));
-                    if (listener[0].isActive()) {
-                        return notificationService.registerListener(listener[0], NotificationScope.ALL);
-                    }
-                    return false;
-                })
-                .orElse(false);
-        if (sucess) {
+        final CacheEventCounters counters = stats.isCollectEventStatistics() ? stats.createCacheEventCounters(cacheGroup, cacheName, cacheEvents) : null;
+        final CacheEventLoggerListener listener = new CacheEventLoggerListener(cacheEvents, level, getListenerLoggerQualifier(cacheName), counters);
+        final CacheManager cacheManager = getCacheManager(cacheGroup);
+        final Ehcache cache = cacheManager == null ? null : cacheManager.getEhcache(cacheName);
+        final String failureReason;
+        if (cacheManager == null) {
+            failureReason = "No cache group named " + cacheGroup;
+        } else if (cache == null) {
+            failureReason = "No cache named " + cacheName;
+        } else if (cacheEvents.isEmpty()) {
+            failureReason = "No valid event configured";
+        } else if (!listener.isActive()) {
+            failureReason = "Log level OFF and statistics collection disabled";
+        } else if (!cache.getCacheEventNotificationService().registerListener(listener, NotificationScope.ALL)) {
+            failureReason = "Listener already registered";
+        } else {
+            failureReason = null;
+        }
+        listenersState.add(new EventListenerState(cacheGroup, cacheName, listener.getLogLevel(), cacheEvents, failureReason));
+
+        if (failureReason == null) {
             if (!listeners.containsKey(cacheGroup)) listeners.put(cacheGroup, new HashMap<>());
-            listeners.get(cacheGroup).put(cacheName, listener[0]);
-            logger.info("Registered cache listener on {} -> {}", cacheName, listener[0]);
+            listeners.get(cacheGroup).put(cacheName, listener);
+            logger.info("Registered cache listener on {} -> {}", cacheName, listener);
+        } else if (counters != null) {
+            stats.removeCacheEventCounters(cacheGroup, cacheName);
         }
     }
 
@@ -175,6 +202,11 @@ public class CacheEventLogger {
     }
 
     private Ehcache getCache(String group, String name) {
+        final CacheManager cacheManager = getCacheManager(group);
+        return cacheManager == null ? null : cacheManager.getEhcache(name);
+    }
+
+    private CacheManager getCacheManager(String group) {
         final CacheProvider cacheProvider;
         try {
             cacheProvider = (CacheProvider) SpringContextSingleton.getBean(group);
@@ -182,8 +214,7 @@ public class CacheEventLogger {
             logger.error("No cache group named {}", group);
             return null;
         }
-        final CacheManager cacheManager = cacheProvider.getCacheManager();
-        return cacheManager.getEhcache(name);
+        return cacheProvider.getCacheManager();
     }
 
 }
@@ -7,6 +7,7 @@ import net.sf.ehcache.event.CacheEventListener;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang.StringUtils;
 import org.jahia.ps.modules.utils.cache.ehcache.CacheEventLogger.CacheEvent;
+import org.jahia.ps.modules.utils.cache.stats.CacheEventCounters;
 import org.jahia.utils.Patterns;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,9 +32,11 @@ public class CacheEventLoggerListener implements CacheEventListener {
     private final Predicate<Logger> logGeneratorEnabled;
     private final boolean isActive;
     private final String logLevel;
+    private final CacheEventCounters counters;
 
-    public CacheEventLoggerListener(Collection<CacheEvent> cacheEvents, String logLevel, String qualifier) {
+    public CacheEventLoggerListener(Collection<CacheEvent> cacheEvents, String logLevel, String qualifier, CacheEventCounters counters) {
         this.cacheEvents = new ArrayList<>(cacheEvents);
+        this.counters = counters;
         loggerPut = getLogger("put", qualifier);
         loggerUpdated = getLogger("updated", qualifier);
         loggerRemoved = getLogger("removed", qualifier);
@@ -73,15 +76,21 @@ public class CacheEventLoggerListener implements CacheEventListener {
                 isValidLogLevel = false;
                 this.logLevel = "OFF";
         }
-        isActive = isValidLogLevel && CollectionUtils.isNotEmpty(this.cacheEvents);
+        isActive = (isValidLogLevel || counters != null) && CollectionUtils.isNotEmpty(this.cacheEvents);
     }
 
     public boolean isActive() {
         return isActive;
     }
 
+    public String getLogLevel() {
+        return logLevel;
+    }
+
     private void notify(Ehcache cache, Element element, CacheEvent cacheEvent, Logger out) {
-        if (logGeneratorEnabled.test(out) && cacheEvents.contains(cacheEvent)) {
+        if (!cacheEvents.contains(cacheEvent)) return;
+        if (counters != null) counters.increment(cacheEvent);
+        if (logGeneratorEnabled.test(out)) {
             final String elementDesc = Optional.ofNullable(element)
                     .map(Element::getObjectKey)
                     .map(Object::toString)
@@ -3,6 +3,7 @@ package org.jahia.ps.modules.utils.cache.listeners;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang.StringUtils;
 import org.jahia.api.Constants;
+import org.jahia.ps.modules.utils.cache.stats.CacheUtilsStats;
 import org.jahia.services.cache.CacheHelper;
 import org.jahia.services.content.DefaultEventListener;
 import org.jahia.services.content.ExternalEventListener;
@@ -14,6 +15,9 @@ import org.jahia.services.content.JCRTemplate;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
 import org.osgi.service.metatype.annotations.AttributeDefinition;
 import org.osgi.service.metatype.annotations.Designate;
 import org.osgi.service.metatype.annotations.ObjectClassDefinition;
@@ -32,6 +36,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.IntStream;
@@ -57,6 +62,9 @@ public class CacheDependenciesListener extends DefaultEventListener implements E
     private final Map<String, String> pathMapping = new ConcurrentHashMap<>();
     private Config config;
 
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    private volatile CacheUtilsStats stats;
+
     public CacheDependenciesListener() {
         setWorkspace(Constants.LIVE_WORKSPACE);
         setAvailableDuringPublish(true);
@@ -156,12 +164,15 @@ public class CacheDependenciesListener extends DefaultEventListener implements E
     public void onEvent(EventIterator events) {
         if (!config.isEnabled()) return;
 
+        final long start = System.currentTimeMillis();
+        final int[] eventsCount = new int[1];
         final Set<String> pathToFlush = new HashSet<>();
         final Set<String> processedNodes = new HashSet<>();
         try {
             JCRTemplate.getInstance().doExecuteWithSystemSessionAsUser(null, Constants.LIVE_WORKSPACE, null, session -> {
                 while (events.hasNext()) {
                     collectPathToFlush(events.nextEvent(), session, pathToFlush, processedNodes);
+                    eventsCount[0]++;
                 }
                 return null;
             });
@@ -171,6 +182,11 @@ public class CacheDependenciesListener extends DefaultEventListener implements E
         if (!pathToFlush.isEmpty()) {
             // TODO : this will propagate on the cluster, but there's no way to prevent it
             CacheHelper.flushOutputCachesForPaths(pathToFlush, false);
+
+            final CacheUtilsStats currentStats = stats;
+            if (currentStats != null) {
+                currentStats.recordFlushBatch(start, eventsCount[0], pathToFlush.size(), System.currentTimeMillis() - start);
+            }
         }
     }
 
@@ -254,6 +270,21 @@ public class CacheDependenciesListener extends DefaultEventListener implements E
         }
     }
 
+    /**
+     * Walks the live registry, not intended to be called on the request path.
+     *
+     * @return the number of nodes depending on each watched node type
+     */
+    public Map<String, Integer> getDependenciesCountByNodeType() {
+        final Map<String, Integer> counts = new TreeMap<>();
+        watchedNodeTypesMapping.forEach((type, deps) -> counts.put(type, deps.size()));
+        return counts;
+    }
+
+    public int getPathMappingSize() {
+        return pathMapping.size();
+    }
+
     private void addWatchedNodeType(String type, String uuid) {
         if (!watchedNodeTypesMapping.containsKey(type)) watchedNodeTypesMapping.put(type, new HashSet<>());
         watchedNodeTypesMapping.get(type).add(uuid);
@@ -0,0 +1,51 @@
+package org.jahia.ps.modules.utils.cache.stats;
+
+import org.jahia.ps.modules.utils.cache.ehcache.CacheEventLogger.CacheEvent;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock free counters of the events notified on a single cache.
+ * Incremented from the Ehcache listener threads, only read by the snapshot task.
+ */
+public class CacheEventCounters {
+
+    private final String cacheGroup;
+    private final String cacheName;
+    private final Map<CacheEvent, LongAdder> counters = new EnumMap<>(CacheEvent.class);
+
+    CacheEventCounters(String cacheGroup, String cacheName, Collection<CacheEvent> cacheEvents) {
+        this.cacheGroup = cacheGroup;
+        this.cacheName = cacheName;
+        for (CacheEvent event : cacheEvents) {
+            counters.put(event, new LongAdder());
+        }
+    }
+
+    /**
+     * @param event an event among the ones this instance has been created for
+     */
+    public void increment(CacheEvent event) {
+        counters.get(event).increment();
+    }
+
+    public String getCacheGroup() {
+        return cacheGroup;
+    }
+
+    public String getCacheName() {
+        return cacheName;
+    }
+
+    Set<CacheEvent> getCacheEvents() {
+        return counters.keySet();
+    }
+
+    long sum(CacheEvent event) {
+        return counters.get(event).sum();
+    }
+}
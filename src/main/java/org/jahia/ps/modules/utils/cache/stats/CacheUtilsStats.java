@@ -0,0 +1,254 @@
+package org.jahia.ps.modules.utils.cache.stats;
+
+import org.jahia.ps.modules.utils.cache.ehcache.CacheEventLogger.CacheEvent;
+import org.jahia.ps.modules.utils.cache.listeners.CacheDependenciesListener;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
+import org.osgi.service.metatype.annotations.AttributeDefinition;
+import org.osgi.service.metatype.annotations.Designate;
+import org.osgi.service.metatype.annotations.ObjectClassDefinition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects the statistics displayed in the cache-utils dashboard.
+ * <p>
+ * The listeners only update lock free counters. A background task periodically walks them and publishes an
+ * immutable JSON snapshot, so that reading the statistics never touches the live data structures.
+ */
+@Component(service = CacheUtilsStats.class, immediate = true, configurationPid = "cacheutils.stats")
+@Designate(ocd = CacheUtilsStats.Config.class)
+public class CacheUtilsStats {
+    @ObjectClassDefinition(name = "%configuration.name", description = "%configuration.description", localization = "OSGI-INF/l10n/cacheUtilsStats")
+    public @interface Config {
+        @AttributeDefinition(name = "%refreshInterval.name", description = "%refreshInterval.description")
+        int refreshInterval() default 5;
+
+        @AttributeDefinition(name = "%collectEventStatistics.name", description = "%collectEventStatistics.description")
+        boolean collectEventStatistics() default false;
+
+        @AttributeDefinition(name = "%recentFlushBatches.name", description = "%recentFlushBatches.description")
+        int recentFlushBatches() default 20;
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheUtilsStats.class);
+
+    private final Map<String, CacheEventCounters> eventCounters = new ConcurrentHashMap<>();
+    private final Map<CacheEventCounters, Map<CacheEvent, Long>> previousTotals = new HashMap<>();
+    private final LongAdder totalFlushBatches = new LongAdder();
+    private final LongAdder totalFlushedPaths = new LongAdder();
+    private final AtomicLong flushBatchesCursor = new AtomicLong();
+    private volatile AtomicReferenceArray<FlushBatch> recentFlushBatches = new AtomicReferenceArray<>(0);
+    private volatile Collection<EventListenerState> eventListeners = Collections.emptyList();
+    private volatile String snapshot = new JSONObject().toString();
+    private long previousSnapshotTime;
+    private int refreshInterval;
+    private boolean collectEventStatistics;
+    private ScheduledExecutorService executor;
+
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    private volatile CacheDependenciesListener dependenciesListener;
+
+    @Activate
+    public void activate(Config config) {
+        refreshInterval = Math.max(1, config.refreshInterval());
+        collectEventStatistics = config.collectEventStatistics();
+        recentFlushBatches = new AtomicReferenceArray<>(Math.max(0, config.recentFlushBatches()));
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "cache-utils-stats");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::refreshSnapshot, 0, refreshInterval, TimeUnit.SECONDS);
+        logger.info("Started the cache statistics collection, refreshed every {} seconds", refreshInterval);
+    }
+
+    @Deactivate
+    public void deactivate() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+        logger.info("Stopped the cache statistics collection");
+    }
+
+    /**
+     * @return the last computed snapshot, as a JSON string. Never blocks.
+     */
+    public String getSnapshot() {
+        return snapshot;
+    }
+
+    public boolean isCollectEventStatistics() {
+        return collectEventStatistics;
+    }
+
+    /**
+     * Creates the counters of a cache, replacing the ones previously created for the same cache if any.
+     */
+    public CacheEventCounters createCacheEventCounters(String cacheGroup, String cacheName, Collection<CacheEvent> cacheEvents) {
+        final CacheEventCounters counters = new CacheEventCounters(cacheGroup, cacheName, cacheEvents);
+        eventCounters.put(getCacheKey(cacheGroup, cacheName), counters);
+        return counters;
+    }
+
+    public void removeCacheEventCounters(String cacheGroup, String cacheName) {
+        eventCounters.remove(getCacheKey(cacheGroup, cacheName));
+    }
+
+    public void setEventListeners(Collection<EventListenerState> eventListeners) {
+        this.eventListeners = Collections.unmodifiableCollection(eventListeners);
+    }
+
+    public void recordFlushBatch(long timestamp, int eventsCount, int flushedPathsCount, long durationMs) {
+        totalFlushBatches.increment();
+        totalFlushedPaths.add(flushedPathsCount);
+        final AtomicReferenceArray<FlushBatch> buffer = recentFlushBatches;
+        if (buffer.length() == 0) return;
+        final long sequence = flushBatchesCursor.getAndIncrement();
+        buffer.set((int) (sequence % buffer.length()), new FlushBatch(sequence, timestamp, eventsCount, flushedPathsCount, durationMs));
+    }
+
+    private static String getCacheKey(String cacheGroup, String cacheName) {
+        return cacheGroup + "/" + cacheName;
+    }
+
+    private void refreshSnapshot() {
+        try {
+            final long now = System.currentTimeMillis();
+            final double elapsedSeconds = previousSnapshotTime > 0 ? (now - previousSnapshotTime) / 1000d : 0d;
+            previousSnapshotTime = now;
+
+            final JSONObject json = new JSONObject();
+            json.put("timestamp", now);
+            json.put("refreshInterval", refreshInterval);
+            json.put("caches", getCachesStats(elapsedSeconds));
+            json.put("dependencies", getDependenciesStats());
+            json.put("flushes", getFlushesStats());
+            json.put("listeners", getListenersStats());
+            snapshot = json.toString();
+        } catch (Exception e) {
+            logger.error("Impossible to refresh the cache statistics", e);
+        }
+    }
+
+    private JSONArray getCachesStats(double elapsedSeconds) throws JSONException {
+        final JSONArray caches = new JSONArray();
+        final Map<CacheEventCounters, Map<CacheEvent, Long>> totals = new HashMap<>();
+        for (CacheEventCounters counters : eventCounters.values()) {
+            final Map<CacheEvent, Long> previous = previousTotals.getOrDefault(counters, Collections.emptyMap());
+            final Map<CacheEvent, Long> current = new EnumMap<>(CacheEvent.class);
+            final JSONObject events = new JSONObject();
+            for (CacheEvent event : counters.getCacheEvents()) {
+                final long total = counters.sum(event);
+                current.put(event, total);
+                final long delta = total - previous.getOrDefault(event, total);
+                final JSONObject eventStats = new JSONObject();
+                eventStats.put("total", total);
+                eventStats.put("rate", elapsedSeconds > 0 ? delta / elapsedSeconds : 0d);
+                events.put(event.name(), eventStats);
+            }
+            totals.put(counters, current);
+
+            final JSONObject cache = new JSONObject();
+            cache.put("group", counters.getCacheGroup());
+            cache.put("name", counters.getCacheName());
+            cache.put("events", events);
+            caches.put(cache);
+        }
+        previousTotals.clear();
+        previousTotals.putAll(totals);
+        return caches;
+    }
+
+    private JSONObject getDependenciesStats() throws JSONException {
+        final JSONObject dependencies = new JSONObject();
+        final CacheDependenciesListener listener = dependenciesListener;
+        if (listener == null) {
+            dependencies.put("nodeTypes", new JSONObject());
+            dependencies.put("pathMappingSize", 0);
+            return dependencies;
+        }
+        dependencies.put("nodeTypes", new JSONObject(listener.getDependenciesCountByNodeType()));
+        dependencies.put("pathMappingSize", listener.getPathMappingSize());
+        return dependencies;
+    }
+
+    private JSONObject getFlushesStats() throws JSONException {
+        final JSONObject flushes = new JSONObject();
+        flushes.put("totalBatches", totalFlushBatches.sum());
+        flushes.put("totalFlushedPaths", totalFlushedPaths.sum());
+
+        final AtomicReferenceArray<FlushBatch> buffer = recentFlushBatches;
+        final List<FlushBatch> batches = new ArrayList<>(buffer.length());
+        for (int i = 0; i < buffer.length(); i++) {
+            final FlushBatch batch = buffer.get(i);
+            if (batch != null) batches.add(batch);
+        }
+        batches.sort(Comparator.comparingLong(FlushBatch::getSequence).reversed());
+
+        final JSONArray recent = new JSONArray();
+        for (FlushBatch batch : batches) {
+            final JSONObject item = new JSONObject();
+            item.put("timestamp", batch.getTimestamp());
+            item.put("events", batch.getEventsCount());
+            item.put("flushedPaths", batch.getFlushedPathsCount());
+            item.put("durationMs", batch.getDurationMs());
+            recent.put(item);
+        }
+        flushes.put("recent", recent);
+        return flushes;
+    }
+
+    private JSONObject getListenersStats() throws JSONException {
+        final JSONObject listeners = new JSONObject();
+
+        final JSONArray ehcacheListeners = new JSONArray();
+        for (EventListenerState state : eventListeners) {
+            final JSONObject item = new JSONObject();
+            item.put("group", state.getCacheGroup());
+            item.put("name", state.getCacheName());
+            item.put("logLevel", state.getLogLevel());
+            item.put("registered", state.isRegistered());
+            item.put("failureReason", state.getFailureReason());
+            final JSONArray events = new JSONArray();
+            for (CacheEvent event : state.getCacheEvents()) {
+                events.put(event.name());
+            }
+            item.put("events", events);
+            ehcacheListeners.put(item);
+        }
+        listeners.put("ehcache", ehcacheListeners);
+        listeners.put("collectEventStatistics", collectEventStatistics);
+
+        final JSONObject dependencies = new JSONObject();
+        final CacheDependenciesListener listener = dependenciesListener;
+        dependencies.put("registered", listener != null);
+        dependencies.put("enabled", listener != null && listener.isEnabled());
+        listeners.put("dependencies", dependencies);
+        return listeners;
+    }
+}
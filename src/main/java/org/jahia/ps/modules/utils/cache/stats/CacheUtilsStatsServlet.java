@@ -0,0 +1,48 @@
+package org.jahia.ps.modules.utils.cache.stats;
+
+import org.jahia.services.content.JCRSessionFactory;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.jcr.RepositoryException;
+import javax.servlet.Servlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Serves the last snapshot computed by {@link CacheUtilsStats}, available under /modules/cache-utils/stats.
+ */
+@Component(service = {HttpServlet.class, Servlet.class}, property = {"alias=/cache-utils/stats"})
+public class CacheUtilsStatsServlet extends HttpServlet {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheUtilsStatsServlet.class);
+    private static final String REQUIRED_PERMISSION = "adminCache";
+
+    @Reference
+    private CacheUtilsStats stats;
+
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        if (!hasPermission()) {
+            resp.sendError(HttpServletResponse.SC_FORBIDDEN);
+            return;
+        }
+        resp.setContentType("application/json");
+        resp.setCharacterEncoding("UTF-8");
+        resp.setHeader("Cache-Control", "no-store");
+        resp.getWriter().write(stats.getSnapshot());
+    }
+
+    private boolean hasPermission() {
+        try {
+            return JCRSessionFactory.getInstance().getCurrentUserSession().getRootNode().hasPermission(REQUIRED_PERMISSION);
+        } catch (RepositoryException e) {
+            logger.error("", e);
+            return false;
+        }
+    }
+}
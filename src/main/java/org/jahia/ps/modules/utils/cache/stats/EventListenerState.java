@@ -0,0 +1,54 @@
+package org.jahia.ps.modules.utils.cache.stats;
+
+import org.jahia.ps.modules.utils.cache.ehcache.CacheEventLogger.CacheEvent;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Immutable state of an Ehcache listener configured in the events logger.
+ */
+public class EventListenerState {
+
+    private final String cacheGroup;
+    private final String cacheName;
+    private final String logLevel;
+    private final Collection<CacheEvent> cacheEvents;
+    private final String failureReason;
+
+    /**
+     * @param failureReason why the listener has not been registered, null if it has been registered
+     */
+    public EventListenerState(String cacheGroup, String cacheName, String logLevel, Collection<CacheEvent> cacheEvents, String failureReason) {
+        this.cacheGroup = cacheGroup;
+        this.cacheName = cacheName;
+        this.logLevel = logLevel;
+        this.cacheEvents = Collections.unmodifiableList(new ArrayList<>(cacheEvents));
+        this.failureReason = failureReason;
+    }
+
+    public String getCacheGroup() {
+        return cacheGroup;
+    }
+
+    public String getCacheName() {
+        return cacheName;
+    }
+
+    public String getLogLevel() {
+        return logLevel;
+    }
+
+    public Collection<CacheEvent> getCacheEvents() {
+        return cacheEvents;
+    }
+
+    public boolean isRegistered() {
+        return failureReason == null;
+    }
+
+    public String getFailureReason() {
+        return failureReason;
+    }
+}
@@ -0,0 +1,41 @@
+package org.jahia.ps.modules.utils.cache.stats;
+
+/**
+ * Immutable description of a batch of JCR events processed by the cache dependencies listener.
+ */
+public class FlushBatch {
+
+    private final long sequence;
+    private final long timestamp;
+    private final int eventsCount;
+    private final int flushedPathsCount;
+    private final long durationMs;
+
+    FlushBatch(long sequence, long timestamp, int eventsCount, int flushedPathsCount, long durationMs) {
+        this.sequence = sequence;
+        this.timestamp = timestamp;
+        this.eventsCount = eventsCount;
+        this.flushedPathsCount = flushedPathsCount;
+        this.durationMs = durationMs;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public int getEventsCount() {
+        return eventsCount;
+    }
+
+    public int getFlushedPathsCount() {
+        return flushedPathsCount;
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+}
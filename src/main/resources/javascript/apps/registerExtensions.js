@@ -1,34 +1,16 @@
 window.jahia.i18n.loadNamespaces('cache-utils');
 
-window.jahia.uiExtender.registry.add('callback', 'cache-utilsExample', {
+window.jahia.uiExtender.registry.add('callback', 'cache-utilsDashboard', {
     targets: ['jahiaApp-init:60'],
     callback: function () {
-        window.jahia.uiExtender.registry.add('adminRoute', 'cache-utilsExample', {
-            targets: ['administration-sites:999', 'cache-utilsaccordion'],
-            label: 'cache-utils:label.settings.title',
+        window.jahia.uiExtender.registry.add('adminRoute', 'cache-utilsDashboard', {
+            targets: ['administration-sites:999'],
+            label: 'cache-utils:label.dashboard.title',
             icon: window.jahia.moonstone.toIconComponent('<svg style="width:24px;height:24px" viewBox="0 0 24 24"><path fill="currentColor" d="M19 6V5A2 2 0 0 0 17 3H15A2 2 0 0 0 13 5V6H11V5A2 2 0 0 0 9 3H7A2 2 0 0 0 5 5V6H3V20H21V6M19 18H5V8H19Z" /></svg>'),
             isSelectable: true,
+            requiredPermission: 'adminCache',
             requireModuleInstalledOnSite: 'cache-utils',
             iframeUrl: window.contextJsParameters.contextPath + '/cms/editframe/default/$lang/sites/$site-key.cache-utils.html.ajax'
         });
-
-        window.jahia.uiExtender.registry.add('action', 'cache-utilsExample', {
-            buttonIcon: window.jahia.moonstone.toIconComponent('<svg style="width:24px;height:24px" viewBox="0 0 24 24"><path fill="currentColor" d="M19 6V5A2 2 0 0 0 17 3H15A2 2 0 0 0 13 5V6H11V5A2 2 0 0 0 9 3H7A2 2 0 0 0 5 5V6H3V20H21V6M19 18H5V8H19Z" /></svg>'),
-            buttonLabel: 'cache-utils:label.action.title',
-            targets: ['contentActions:999'],
-            onClick: context => {
-                window.open('https://github.com/Jahia/app-shell/blob/master/docs/declare-new-module.md', "_blank");
-            }
-        });
-
-        window.jahia.uiExtender.registry.add('accordionItem', 'cache-utilsApps_Example', window.jahia.uiExtender.registry.get('accordionItem', 'renderDefaultApps'), {
-            targets: ['jcontent:998'],
-            label: 'cache-utils:label.appsAccordion.title',
-            icon: window.jahia.moonstone.toIconComponent('<svg style="width:24px;height:24px" viewBox="0 0 24 24"><path fill="currentColor" d="M19 6V5A2 2 0 0 0 17 3H15A2 2 0 0 0 13 5V6H11V5A2 2 0 0 0 9 3H7A2 2 0 0 0 5 5V6H3V20H21V6M19 18H5V8H19Z" /></svg>'),
-            appsTarget: 'cache-utilsaccordion',
-            isEnabled: function(siteKey) {
-                return siteKey !== 'systemsite'
-            }
-        });
     }
 });
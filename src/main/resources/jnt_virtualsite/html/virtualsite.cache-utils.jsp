@@ -1,7 +1,121 @@
+<%@ page language="java" contentType="text/html;charset=UTF-8" %>
 <html>
 
-<h1>Settings example</h1>
+<h1>Cache Utils dashboard</h1>
 
-Read the <a href="https://github.com/Jahia/app-shell/blob/master/docs/declare-new-module.md">docs</a> to see how to extend the UI !
+<p id="cacheUtilsStatus">Loading...</p>
+
+<h2>Cache events</h2>
+<p id="cacheUtilsEventStatistics"></p>
+<table id="cacheUtilsCaches" border="1">
+    <thead><tr><th>Cache</th><th>Event</th><th>Total</th><th>Rate (/s)</th></tr></thead>
+    <tbody></tbody>
+</table>
+
+<h2>Dependencies registry</h2>
+<p id="cacheUtilsPathMapping"></p>
+<table id="cacheUtilsDependencies" border="1">
+    <thead><tr><th>Node type</th><th>Dependencies</th></tr></thead>
+    <tbody></tbody>
+</table>
+
+<h2>Recent flush batches</h2>
+<p id="cacheUtilsFlushTotals"></p>
+<table id="cacheUtilsFlushes" border="1">
+    <thead><tr><th>Date</th><th>Events</th><th>Flushed paths</th><th>Duration (ms)</th></tr></thead>
+    <tbody></tbody>
+</table>
+
+<h2>Event listeners</h2>
+<p id="cacheUtilsDependenciesListener"></p>
+<table id="cacheUtilsListeners" border="1">
+    <thead><tr><th>Cache</th><th>Status</th><th>Log level</th><th>Events</th></tr></thead>
+    <tbody></tbody>
+</table>
+
+<script type="text/javascript">
+    (function () {
+        var statsUrl = '${pageContext.request.contextPath}/modules/cache-utils/stats';
+        var defaultRefreshInterval = 5;
+
+        function fillTable(id, rows) {
+            var body = document.querySelector('#' + id + ' tbody');
+            while (body.firstChild) {
+                body.removeChild(body.firstChild);
+            }
+            rows.forEach(function (row) {
+                var tr = document.createElement('tr');
+                row.forEach(function (cell) {
+                    var td = document.createElement('td');
+                    td.textContent = cell;
+                    tr.appendChild(td);
+                });
+                body.appendChild(tr);
+            });
+        }
+
+        function setText(id, text) {
+            document.getElementById(id).textContent = text;
+        }
+
+        function render(stats) {
+            var cacheRows = [];
+            stats.caches.forEach(function (cache) {
+                Object.keys(cache.events).forEach(function (event) {
+                    var eventStats = cache.events[event];
+                    cacheRows.push([cache.group + ' / ' + cache.name, event, eventStats.total, eventStats.rate.toFixed(2)]);
+                });
+            });
+            fillTable('cacheUtilsCaches', cacheRows);
+
+            setText('cacheUtilsPathMapping', 'Registered nodes: ' + stats.dependencies.pathMappingSize);
+            fillTable('cacheUtilsDependencies', Object.keys(stats.dependencies.nodeTypes).map(function (nodeType) {
+                return [nodeType, stats.dependencies.nodeTypes[nodeType]];
+            }));
+
+            setText('cacheUtilsFlushTotals', 'Batches: ' + stats.flushes.totalBatches + ', flushed paths: ' + stats.flushes.totalFlushedPaths);
+            fillTable('cacheUtilsFlushes', stats.flushes.recent.map(function (batch) {
+                return [new Date(batch.timestamp).toLocaleString(), batch.events, batch.flushedPaths, batch.durationMs];
+            }));
+
+            var dependenciesListener = stats.listeners.dependencies;
+            setText('cacheUtilsEventStatistics', 'Cache events statistics: ' + (stats.listeners.collectEventStatistics ? 'collected' : 'not collected'));
+            setText('cacheUtilsDependenciesListener', 'Cache dependencies listener: '
+                + (dependenciesListener.registered ? (dependenciesListener.enabled ? 'enabled' : 'disabled') : 'not registered'));
+            fillTable('cacheUtilsListeners', stats.listeners.ehcache.map(function (listener) {
+                return [listener.group + ' / ' + listener.name,
+                    listener.registered ? 'registered' : 'not registered: ' + listener.failureReason,
+                    listener.logLevel, listener.events.join(', ')];
+            }));
+
+            setText('cacheUtilsStatus', 'Last update: ' + new Date(stats.timestamp).toLocaleString());
+        }
+
+        function poll() {
+            var refreshInterval = defaultRefreshInterval;
+            fetch(statsUrl, {credentials: 'same-origin'})
+                .then(function (response) {
+                    if (!response.ok) {
+                        throw new Error('HTTP ' + response.status);
+                    }
+                    return response.json();
+                })
+                .then(function (stats) {
+                    if (stats.timestamp) {
+                        render(stats);
+                        refreshInterval = stats.refreshInterval;
+                    }
+                })
+                .catch(function (error) {
+                    setText('cacheUtilsStatus', 'Impossible to load the statistics: ' + error.message);
+                })
+                .then(function () {
+                    setTimeout(poll, refreshInterval * 1000);
+                });
+        }
+
+        poll();
+    })();
+</script>
 
 </html>